@@ -0,0 +1,135 @@
+/*
+ Copyright (c) 2013 Juniper Networks, Inc.
+ All Rights Reserved
+
+ Use is subject to license terms.
+
+*/
+
+package net.juniper.netconf;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The replies the benchmarks run on: the recorded replies of the tests, and
+ * synthetic replies of the same shape scaled up to a given size.
+ */
+final class BenchmarkReplies {
+
+    static final String SERVER_HELLO_1_0 = "<hello xmlns=\"" + NetconfConstants.URN_XML_NS_NETCONF_BASE_1_0 + "\">" +
+            "<capabilities>" +
+            "<capability>" + NetconfConstants.URN_IETF_PARAMS_NETCONF_BASE_1_0 + "</capability>" +
+            "</capabilities>" +
+            "<session-id>1</session-id>" +
+            "</hello>";
+    static final String SERVER_HELLO_1_1 = "<hello xmlns=\"" + NetconfConstants.URN_XML_NS_NETCONF_BASE_1_0 + "\">" +
+            "<capabilities>" +
+            "<capability>" + NetconfConstants.URN_IETF_PARAMS_NETCONF_BASE_1_0 + "</capability>" +
+            "<capability>" + NetconfConstants.URN_IETF_PARAMS_NETCONF_BASE_1_1 + "</capability>" +
+            "</capabilities>" +
+            "<session-id>1</session-id>" +
+            "</hello>";
+    static final String CLIENT_HELLO_1_0 = "<hello xmlns=\"" + NetconfConstants.URN_XML_NS_NETCONF_BASE_1_0 + "\">" +
+            "<capabilities>" +
+            "<capability>" + NetconfConstants.URN_IETF_PARAMS_NETCONF_BASE_1_0 + "</capability>" +
+            "</capabilities>" +
+            "</hello>" + NetconfConstants.DEVICE_PROMPT;
+    static final String CLIENT_HELLO_1_1 = "<hello xmlns=\"" + NetconfConstants.URN_XML_NS_NETCONF_BASE_1_0 + "\">" +
+            "<capabilities>" +
+            "<capability>" + NetconfConstants.URN_IETF_PARAMS_NETCONF_BASE_1_0 + "</capability>" +
+            "<capability>" + NetconfConstants.URN_IETF_PARAMS_NETCONF_BASE_1_1 + "</capability>" +
+            "</capabilities>" +
+            "</hello>" + NetconfConstants.DEVICE_PROMPT;
+
+    // devices send chunks of a few kilobytes
+    private static final int CHUNK_SIZE = 8192;
+
+    private BenchmarkReplies() {
+    }
+
+    /**
+     * Load a recorded reply of the tests.
+     */
+    static String load(String resource) {
+        try (InputStream in = BenchmarkReplies.class.getClassLoader().getResourceAsStream(resource)) {
+            if (in == null)
+                throw new IllegalArgumentException("No such resource: " + resource);
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int count;
+            while ((count = in.read(buffer)) > 0) {
+                out.write(buffer, 0, count);
+            }
+            return out.toString("UTF-8");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Build a reply shaped like sampleFPCTempRPCReply.xml, with a given
+     * number of environment-component-item elements.
+     *
+     * @param items the number of items, named "FPC 0" to "FPC {items - 1}".
+     */
+    static String environmentReply(int items) {
+        StringBuilder reply = new StringBuilder(items * 220 + 300);
+        reply.append("<rpc-reply xmlns:junos=\"http://xml.juniper.net/junos/version/junos\">\n")
+                .append("    <environment-component-information ")
+                .append("xmlns=\"http://xml.juniper.net/junos/version/junos-chassis\">\n");
+        for (int i = 0; i < items; i++) {
+            int celsius = 30 + i % 40;
+            reply.append("        <environment-component-item>\n")
+                    .append("            <name>FPC ").append(i).append("</name>\n")
+                    .append("            <temperature junos:celsius=\"").append(celsius).append("\">\n")
+                    .append("                ").append(celsius).append(" degrees C / ")
+                    .append(celsius * 9 / 5 + 32).append(" degrees F\n")
+                    .append("            </temperature>\n")
+                    .append("        </environment-component-item>\n");
+        }
+        reply.append("    </environment-component-information>\n")
+                .append("</rpc-reply>");
+        return reply.toString();
+    }
+
+    /**
+     * Build a reply of about a given size.
+     *
+     * @param size the size of the reply, in bytes.
+     */
+    static String replyOfSize(int size) {
+        // an item is about 220 bytes
+        return environmentReply(Math.max(1, size / 220));
+    }
+
+    /**
+     * Frame a message as the device sends it.
+     *
+     * @param message the message.
+     * @param chunked true for the chunked framing of base:1.1, false for the
+     *                end-of-message framing of base:1.0.
+     */
+    static byte[] frame(String message, boolean chunked) {
+        byte[] bytes = message.getBytes(StandardCharsets.UTF_8);
+        ByteArrayOutputStream framed = new ByteArrayOutputStream(bytes.length + 64);
+        if (!chunked) {
+            framed.write(bytes, 0, bytes.length);
+            byte[] prompt = NetconfConstants.DEVICE_PROMPT.getBytes(StandardCharsets.UTF_8);
+            framed.write(prompt, 0, prompt.length);
+            return framed.toByteArray();
+        }
+        for (int offset = 0; offset < bytes.length; offset += CHUNK_SIZE) {
+            int length = Math.min(CHUNK_SIZE, bytes.length - offset);
+            byte[] header = ("\n#" + length + "\n").getBytes(StandardCharsets.US_ASCII);
+            framed.write(header, 0, header.length);
+            framed.write(bytes, offset, length);
+        }
+        byte[] end = "\n##\n".getBytes(StandardCharsets.US_ASCII);
+        framed.write(end, 0, end.length);
+        return framed.toByteArray();
+    }
+}
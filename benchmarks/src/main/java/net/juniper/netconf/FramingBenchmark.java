@@ -0,0 +1,69 @@
+/*
+ Copyright (c) 2013 Juniper Networks, Inc.
+ All Rights Reserved
+
+ Use is subject to license terms.
+
+*/
+
+package net.juniper.netconf;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reading a reply from the device: finding the end of the message in the
+ * end-of-message framing of base:1.0, or decoding the chunks of base:1.1,
+ * for replies from 1 KB to 4 MB.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FramingBenchmark {
+
+    private static final String RPC = "<rpc><get-environment-information/></rpc>" + NetconfConstants.DEVICE_PROMPT;
+
+    @Param({"1024", "65536", "1048576", "4194304"})
+    public int replySize;
+
+    @Param({"eom", "chunked"})
+    public String framing;
+
+    private NetconfSession session;
+
+    @Setup
+    public void setUp() throws IOException {
+        session = LoopingTransport.createSession(BenchmarkReplies.replyOfSize(replySize), "chunked".equals(framing));
+    }
+
+    /**
+     * The reply as a String, as the load, commit and CLI methods get it.
+     */
+    @Benchmark
+    public String getRpcReply() throws IOException {
+        return session.getRpcReply(RPC);
+    }
+
+    /**
+     * The reply as bytes, as executeRPC gets it before parsing.
+     */
+    @Benchmark
+    public int getRpcReplyBytes() throws IOException {
+        return session.getRpcReplyBytes(RPC).length();
+    }
+}
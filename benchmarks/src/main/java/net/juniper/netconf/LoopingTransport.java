@@ -0,0 +1,100 @@
+/*
+ Copyright (c) 2013 Juniper Networks, Inc.
+ All Rights Reserved
+
+ Use is subject to license terms.
+
+*/
+
+package net.juniper.netconf;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * A transport to a device that answers the hello, then every RPC with the
+ * same reply, from memory, so a benchmark measures the client alone.
+ */
+final class LoopingTransport implements NetconfTransport {
+
+    private final byte[] hello;
+    private final byte[] reply;
+
+    /**
+     * @param hello the framed hello of the device.
+     * @param reply the framed reply sent for every RPC.
+     */
+    LoopingTransport(byte[] hello, byte[] reply) {
+        this.hello = hello;
+        this.reply = reply;
+    }
+
+    /**
+     * Create a session on a looping transport.
+     *
+     * @param reply   the reply, unframed.
+     * @param chunked true to negotiate base:1.1 and the chunked framing.
+     */
+    static NetconfSession createSession(String reply, boolean chunked) throws IOException {
+        LoopingTransport transport = new LoopingTransport(
+                BenchmarkReplies.frame(chunked ? BenchmarkReplies.SERVER_HELLO_1_1
+                        : BenchmarkReplies.SERVER_HELLO_1_0, false),
+                BenchmarkReplies.frame(reply, chunked));
+        return new NetconfSession(transport, 5000, 60000,
+                chunked ? BenchmarkReplies.CLIENT_HELLO_1_1 : BenchmarkReplies.CLIENT_HELLO_1_0);
+    }
+
+    @Override
+    public InputStream getInputStream() {
+        return new InputStream() {
+            private byte[] message = hello;
+            private int position;
+
+            @Override
+            public int read() {
+                byte[] b = new byte[1];
+                read(b, 0, 1);
+                return b[0] & 0xff;
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) {
+                if (position == message.length) {
+                    message = reply;
+                    position = 0;
+                }
+                int count = Math.min(len, message.length - position);
+                System.arraycopy(message, position, b, off, count);
+                position += count;
+                return count;
+            }
+        };
+    }
+
+    @Override
+    public OutputStream getOutputStream() {
+        return new OutputStream() {
+            @Override
+            public void write(int b) {
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+            }
+        };
+    }
+
+    @Override
+    public void connect(int timeout) {
+    }
+
+    @Override
+    public boolean isConnected() {
+        return true;
+    }
+
+    @Override
+    public void disconnect() {
+    }
+}
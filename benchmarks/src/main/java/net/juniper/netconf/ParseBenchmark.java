@@ -0,0 +1,68 @@
+/*
+ Copyright (c) 2013 Juniper Networks, Inc.
+ All Rights Reserved
+
+ Use is subject to license terms.
+
+*/
+
+package net.juniper.netconf;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.xml.sax.SAXException;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing a reply into an XML object, from the String of the reply and from
+ * the bytes executeRPC reads, on the recorded reply and on replies scaled up
+ * to thousands of items.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParseBenchmark {
+
+    /**
+     * The recorded reply, or the number of items of a synthetic reply.
+     */
+    @Param({"recorded", "100", "10000"})
+    public String reply;
+
+    private String replyString;
+    private ReplyBuffer replyBytes;
+
+    @Setup
+    public void setUp() {
+        replyString = "recorded".equals(reply) ? BenchmarkReplies.load("sampleFPCTempRPCReply.xml")
+                : BenchmarkReplies.environmentReply(Integer.parseInt(reply));
+        byte[] bytes = replyString.getBytes(StandardCharsets.UTF_8);
+        replyBytes = new ReplyBuffer(bytes.length);
+        replyBytes.append(bytes, 0, bytes.length);
+    }
+
+    @Benchmark
+    public XML convertToXMLFromString() throws IOException, SAXException {
+        return NetconfSession.convertToXML(replyString);
+    }
+
+    @Benchmark
+    public XML convertToXMLFromBytes() throws IOException, SAXException {
+        return NetconfSession.convertToXML(replyBytes);
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ Copyright (c) 2013 Juniper Networks, Inc.
+ All Rights Reserved
+
+ Use is subject to license terms.
+
+*/
+
+package net.juniper.netconf;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.xml.parsers.ParserConfigurationException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Building the RPCs sent to the device: with an XMLBuilder, and from the
+ * forms of RPC strings accepted by executeRPC.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RpcBuilderBenchmark {
+
+    /**
+     * The form of the RPC string given to fixupRpc.
+     */
+    @Param({"name", "element", "rpc"})
+    public String rpcForm;
+
+    private XMLBuilder builder;
+    private String rpcContent;
+
+    @Setup
+    public void setUp() throws ParserConfigurationException {
+        builder = new XMLBuilder();
+        switch (rpcForm) {
+            case "name":
+                rpcContent = "get-interface-information";
+                break;
+            case "element":
+                rpcContent = "<get-interface-information><terse/></get-interface-information>";
+                break;
+            default:
+                rpcContent = "<rpc><get-interface-information><terse/></get-interface-information></rpc>";
+                break;
+        }
+    }
+
+    @Benchmark
+    public XML createNewRPC() {
+        return builder.createNewRPC("get-interface-information", "terse");
+    }
+
+    @Benchmark
+    public String createNewRPCAsString() {
+        return builder.createNewRPC("get-interface-information", "terse").toCompactString();
+    }
+
+    @Benchmark
+    public String fixupRpc() {
+        return NetconfSession.fixupRpc(rpcContent);
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ Copyright (c) 2013 Juniper Networks, Inc.
+ All Rights Reserved
+
+ Use is subject to license terms.
+
+*/
+
+package net.juniper.netconf;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.w3c.dom.Node;
+import org.xml.sax.SAXException;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Looking up and serializing a parsed reply. The value looked up is the
+ * temperature of the last item, so a lookup goes through every item, and
+ * the nodes looked up are all the items.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class XMLBenchmark {
+
+    /**
+     * The recorded reply, or the number of items of a synthetic reply.
+     */
+    @Param({"recorded", "100", "10000"})
+    public String reply;
+
+    private XML xml;
+    private List<String> valuePath;
+    private List<String> nodesPath;
+    private CompiledPath compiledValuePath;
+    private CompiledPath compiledNodesPath;
+
+    @Setup
+    public void setUp() throws IOException, SAXException {
+        String lastName;
+        String replyString;
+        if ("recorded".equals(reply)) {
+            replyString = BenchmarkReplies.load("sampleFPCTempRPCReply.xml");
+            lastName = "Routing Engine 1";
+        } else {
+            int items = Integer.parseInt(reply);
+            replyString = BenchmarkReplies.environmentReply(items);
+            lastName = "FPC " + (items - 1);
+        }
+        xml = NetconfSession.convertToXML(replyString);
+        valuePath = Arrays.asList("environment-component-information", "environment-component-item",
+                "name~" + lastName, "temperature");
+        nodesPath = Arrays.asList("environment-component-information", "environment-component-item");
+        compiledValuePath = CompiledPath.compile(valuePath);
+        compiledNodesPath = CompiledPath.compile(nodesPath);
+    }
+
+    @Benchmark
+    public String findValue() {
+        return xml.findValue(valuePath);
+    }
+
+    @Benchmark
+    public String findValueCompiled() {
+        return xml.findValue(compiledValuePath);
+    }
+
+    @Benchmark
+    public List<Node> findNodes() {
+        return xml.findNodes(nodesPath);
+    }
+
+    @Benchmark
+    public List<Node> findNodesCompiled() {
+        return xml.findNodes(compiledNodesPath);
+    }
+
+    @Benchmark
+    public String toIndentedString() {
+        return xml.toString();
+    }
+
+    @Benchmark
+    public String toCompactString() {
+        return xml.toCompactString();
+    }
+}